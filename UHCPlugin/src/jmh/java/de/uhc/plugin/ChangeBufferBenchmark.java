@@ -0,0 +1,98 @@
+// File: src/jmh/java/de/uhc/plugin/ChangeBufferBenchmark.java
+package de.uhc.plugin;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Replays a synthetic lava cascade through the per-tick journal buffer.
+// Each tick fires eventsPerTick BlockFromToEvent positions over a flow front of
+// eventsPerTick / 10 cells (90 % repeats); half of the front was already journaled in the
+// previous tick, half is new. Scores are per tick (64 ticks per invocation).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChangeBufferBenchmark {
+    private static final int TICKS = 64;
+    private static final String WORLD = "world";
+
+    @Param({"1000", "5000", "20000"})
+    public int eventsPerTick;
+
+    // per tick: x, y, z of each event
+    private int[][] events;
+
+    private final Map<BlockPos, Object> journal = new ConcurrentHashMap<>();
+    private final ChangeBuffer<Object> buffer = new ChangeBuffer<>();
+    private final Object blockData = new Object();
+
+    @Setup
+    public void setup() {
+        Random rnd = new Random(42);
+        int front = Math.max(1, eventsPerTick / 10);
+        events = new int[TICKS][];
+        int next = 0;
+        int[] previous = new int[0];
+        for (int t = 0; t < TICKS; t++) {
+            // half of the front carries over from the last tick, the rest is freshly flooded
+            int[] cells = new int[front];
+            for (int i = 0; i < front; i++) {
+                cells[i] = (i < front / 2 && i < previous.length) ? previous[previous.length - 1 - i] : next++;
+            }
+            int[] tick = new int[eventsPerTick * 3];
+            for (int e = 0; e < eventsPerTick; e++) {
+                int cell = cells[rnd.nextInt(front)];
+                tick[e * 3] = cell % 256;
+                tick[e * 3 + 1] = 64 - (cell / 65536);
+                tick[e * 3 + 2] = (cell / 256) % 256;
+            }
+            events[t] = tick;
+            previous = cells;
+        }
+    }
+
+    // BlockChangeListener -> queueBlockChange -> once per tick drainPendingChanges
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public void bufferedPerTick(Blackhole bh) {
+        journal.clear();
+        for (int[] tick : events) {
+            for (int i = 0; i < tick.length; i += 3) {
+                BlockPos key = new BlockPos(WORLD, tick[i], tick[i + 1], tick[i + 2]);
+                if (journal.containsKey(key) || buffer.contains(key)) continue;
+                buffer.offer(key, blockData);
+            }
+            buffer.drainInto(journal, Snapshot::new);
+        }
+        bh.consume(journal.size());
+    }
+
+    // baseline: the place/break path (snapshot per event, putIfAbsent straight into the journal)
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public void directPerEvent(Blackhole bh) {
+        journal.clear();
+        for (int[] tick : events) {
+            for (int i = 0; i < tick.length; i += 3) {
+                BlockPos key = new BlockPos(WORLD, tick[i], tick[i + 1], tick[i + 2]);
+                journal.putIfAbsent(key, new Snapshot(blockData));
+            }
+        }
+        bh.consume(journal.size());
+    }
+
+    // stand-in for GameManager.BlockSnapshot
+    private static final class Snapshot {
+        final Object data;
+
+        Snapshot(Object data) {
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+// File: src/jmh/java/de/uhc/plugin/ChunkHashBenchmark.java
+package de.uhc.plugin;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Hashes representative overworld chunks (y -64..320) the way RollbackVerifier does.
+// Deepslate/stone with ores and caves up to y 63, a grass/water/tree surface, then 14 empty
+// sections. blockAt allocates a wrapper per call like CraftChunkSnapshot#getBlockData does;
+// the palette lookup behind it on a real server is not part of this measurement.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChunkHashBenchmark {
+    private static final int MIN_Y = -64;
+    private static final int MAX_Y = 320;
+    private static final int SECTIONS = (MAX_Y - MIN_Y) >> 4;
+    private static final int VARIANTS = 16;
+    // 500-block border -> 33 x 33 chunks
+    private static final int AREA_CHUNKS = 33 * 33;
+
+    // stand-ins for the server's interned block states
+    private final Object[] states = new Object[64];
+    private SyntheticChunk[] variants;
+    private List<SyntheticChunk> area;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < states.length; i++) states[i] = new Object();
+        Random rnd = new Random(7);
+        variants = new SyntheticChunk[VARIANTS];
+        for (int v = 0; v < VARIANTS; v++) variants[v] = new SyntheticChunk(rnd);
+        area = new ArrayList<>(AREA_CHUNKS);
+        for (int i = 0; i < AREA_CHUNKS; i++) area.add(variants[i % VARIANTS]);
+    }
+
+    @Benchmark
+    public ChunkHasher.Hashes hashChunk() {
+        return ChunkHasher.hash(variants[0], MIN_Y, MAX_Y);
+    }
+
+    // one full pass over the play area on the common fork-join pool
+    @Benchmark
+    public List<ChunkHasher.Hashes> hashPlayArea() {
+        return area.parallelStream()
+                .map(c -> ChunkHasher.hash(c, MIN_Y, MAX_Y))
+                .collect(Collectors.toList());
+    }
+
+    // state ids: 0 air, 1-3 deepslate (axis), 4 stone, 5-12 ores, 13 dirt, 14 grass, 15 water,
+    // 16-18 logs (axis), 19-22 leaves, 23 gravel, 24 lava, 25 tuff
+    private final class SyntheticChunk implements ChunkHasher.Blocks {
+        private final byte[] ids = new byte[SECTIONS * 4096];
+
+        SyntheticChunk(Random rnd) {
+            int surface = 64 + rnd.nextInt(4);
+            boolean wet = rnd.nextInt(4) == 0;
+            for (int y = MIN_Y; y < 96; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        int r = rnd.nextInt(100);
+                        int id;
+                        if (y < MIN_Y + 8 && r < 10) id = 24;
+                        else if (y < 0) id = r < 2 ? 5 + rnd.nextInt(8) : r < 4 ? 25 : r < 6 ? 0 : 1 + rnd.nextInt(3);
+                        else if (y < surface - 4) id = r < 2 ? 5 + rnd.nextInt(8) : r < 4 ? 23 : r < 12 ? 0 : 4;
+                        else if (y < surface) id = 13;
+                        else if (y == surface) id = wet ? 15 : 14;
+                        else if (wet && y < surface + 3) id = 15;
+                        else if (!wet && y < surface + 6 && x == 8 && z == 8) id = 16 + rnd.nextInt(3);
+                        else if (!wet && y >= surface + 4 && r < 30) id = 19 + rnd.nextInt(4);
+                        else id = 0;
+                        ids[index(x, y, z)] = (byte) id;
+                    }
+                }
+            }
+        }
+
+        private int index(int x, int y, int z) {
+            return ((y - MIN_Y) << 8) | (z << 4) | x;
+        }
+
+        @Override
+        public boolean isSectionEmpty(int section) {
+            return section >= (96 - MIN_Y) >> 4;
+        }
+
+        @Override
+        public Object blockAt(int x, int y, int z) {
+            return new BlockDataStub(states[ids[index(x, y, z)]]);
+        }
+    }
+
+    private static final class BlockDataStub {
+        private final Object state;
+
+        BlockDataStub(Object state) {
+            this.state = state;
+        }
+
+        @Override
+        public int hashCode() {
+            return state.hashCode();
+        }
+    }
+}
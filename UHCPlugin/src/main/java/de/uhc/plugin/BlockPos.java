@@ -0,0 +1,38 @@
+// File: src/main/java/de/uhc/plugin/BlockPos.java
+package de.uhc.plugin;
+
+import java.util.Objects;
+
+// helper key for block positions (world + blockX/blockY/blockZ)
+// Kept free of Bukkit types so the journal buffer can be benchmarked without a server.
+final class BlockPos {
+    public final String world;
+    public final int x;
+    public final int y;
+    public final int z;
+
+    BlockPos(String world, int x, int y, int z) {
+        this.world = world;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BlockPos blockPos = (BlockPos) o;
+        return x == blockPos.x && y == blockPos.y && z == blockPos.z && Objects.equals(world, blockPos.world);
+    }
+
+    @Override
+    public int hashCode() {
+        // hand-rolled instead of Objects.hash: called for every buffered physics event
+        int h = world.hashCode();
+        h = 31 * h + x;
+        h = 31 * h + y;
+        h = 31 * h + z;
+        return h;
+    }
+}
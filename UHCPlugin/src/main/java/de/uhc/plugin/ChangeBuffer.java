@@ -0,0 +1,38 @@
+// File: src/main/java/de/uhc/plugin/ChangeBuffer.java
+package de.uhc.plugin;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// Per-tick buffer for high-frequency block changes (fluids, fire, pistons, falling blocks).
+// The first value offered for a position wins; drainInto() moves everything into the
+// rollback journal once per tick. Only used from the main thread, so a plain HashMap.
+final class ChangeBuffer<V> {
+    private final Map<BlockPos, V> pending = new HashMap<>();
+
+    public boolean contains(BlockPos pos) {
+        return pending.containsKey(pos);
+    }
+
+    public void offer(BlockPos pos, V value) {
+        pending.putIfAbsent(pos, value);
+    }
+
+    public boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    public void clear() {
+        pending.clear();
+    }
+
+    // positions already in the journal keep their (older) entry
+    public <S> void drainInto(Map<BlockPos, S> journal, Function<? super V, ? extends S> toSnapshot) {
+        if (pending.isEmpty()) return;
+        for (Map.Entry<BlockPos, V> e : pending.entrySet()) {
+            journal.putIfAbsent(e.getKey(), toSnapshot.apply(e.getValue()));
+        }
+        pending.clear();
+    }
+}
@@ -0,0 +1,72 @@
+// File: src/main/java/de/uhc/plugin/ChunkHasher.java
+package de.uhc.plugin;
+
+import java.util.Arrays;
+
+// Section and row hashes behind the rollback verification. Works on a minimal view of a
+// chunk so it can be benchmarked without a server; RollbackVerifier adapts ChunkSnapshot.
+final class ChunkHasher {
+    private ChunkHasher() {}
+
+    interface Blocks {
+        boolean isSectionEmpty(int section);
+
+        // anything whose hashCode identifies the block state (BlockData on the server)
+        Object blockAt(int x, int y, int z);
+    }
+
+    // per section: one hash plus 256 row hashes (y, z) over x = 0..15; rows[sec] is null for all-air sections
+    static final class Hashes {
+        public final long[] sections;
+        public final int[][] rows;
+
+        private Hashes(long[] sections, int[][] rows) {
+            this.sections = sections;
+            this.rows = rows;
+        }
+    }
+
+    public static Hashes hash(Blocks blocks, int minY, int maxY) {
+        int count = (maxY - minY) >> 4;
+        long[] sections = new long[count];
+        int[][] rows = new int[count][];
+        for (int sec = 0; sec < count; sec++) {
+            if (blocks.isSectionEmpty(sec)) continue;
+            int baseY = minY + (sec << 4);
+            int[] r = new int[256];
+            long h = 17;
+            for (int dy = 0; dy < 16; dy++) {
+                for (int z = 0; z < 16; z++) {
+                    int rh = 17;
+                    for (int x = 0; x < 16; x++) {
+                        rh = rh * 31 + blocks.blockAt(x, baseY + dy, z).hashCode();
+                    }
+                    r[(dy << 4) | z] = rh;
+                    h = h * 31 + rh;
+                }
+            }
+            sections[sec] = h;
+            rows[sec] = r;
+        }
+        return new Hashes(sections, rows);
+    }
+
+    // rows that differ, ascending; row = section * 256 + dy * 16 + z, so y = minY + (row >> 4), z = row & 15
+    public static int[] mismatchedRows(Hashes before, Hashes after) {
+        int[] out = new int[16];
+        int n = 0;
+        for (int sec = 0; sec < before.sections.length; sec++) {
+            int[] a = before.rows[sec];
+            int[] b = after.rows[sec];
+            if (a == null && b == null) continue;
+            if (a != null && b != null && before.sections[sec] == after.sections[sec]) continue;
+            for (int i = 0; i < 256; i++) {
+                // a section that was or became all air differs in every row
+                if (a != null && b != null && a[i] == b[i]) continue;
+                if (n == out.length) out = Arrays.copyOf(out, n * 2);
+                out[n++] = (sec << 8) | i;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+}
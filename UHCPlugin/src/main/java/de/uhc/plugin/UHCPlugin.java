@@ -6,6 +6,7 @@ import org.bukkit.entity.Projectile;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -16,9 +17,20 @@ import org.bukkit.block.BlockState;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockIgniteEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.BlockSpreadEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.player.PlayerBucketEmptyEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
@@ -28,6 +40,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.block.data.BlockData;
+import org.bukkit.block.data.Directional;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.command.Command;
@@ -39,8 +52,22 @@ import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.Material;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 public final class UHCPlugin extends JavaPlugin {
 
@@ -76,6 +103,10 @@ public final class UHCPlugin extends JavaPlugin {
         if (gameManager != null && gameManager.isRunning()) {
             gameManager.endGame(true);
         }
+        if (gameManager != null) {
+            // wait (bounded) for a verification started by an earlier /uhc stop
+            gameManager.verifier.shutdown();
+        }
         getLogger().info("UHCPlugin disabled");
     }
 
@@ -94,11 +125,18 @@ public final class UHCPlugin extends JavaPlugin {
         // Map of block-position key -> snapshot of original block (before modifications)
         private final Map<BlockPos, BlockSnapshot> originalBlocks = new ConcurrentHashMap<>();
 
+        // High-frequency changes (fluids, fire, pistons, falling blocks), drained into originalBlocks once per tick
+        private final ChangeBuffer<BlockData> pendingBlocks = new ChangeBuffer<>();
+
         private BukkitRunnable shrinkTask = null;
+        private BukkitRunnable journalTask = null;
         private BukkitRunnable teleportTask = null;
 
+        private final RollbackVerifier verifier;
+
         public GameManager(JavaPlugin plugin) {
             this.plugin = plugin;
+            this.verifier = new RollbackVerifier(plugin);
         }
 
         public boolean isRunning() { return state == State.RUNNING; }
@@ -111,9 +149,25 @@ public final class UHCPlugin extends JavaPlugin {
             startTimeMillis = System.currentTimeMillis();
 
             originalBlocks.clear();
+            pendingBlocks.clear();
             alivePlayers.clear();
             spectators.clear();
 
+            // Checksum the play area (optional, see config: rollback-verify). Loaded chunks are
+            // captured right away, the others when their async load completes, a few ticks in.
+            if (verifier.isEnabled()) {
+                verifier.captureBaseline();
+            }
+
+            // Drain the high-frequency change buffer once per tick
+            journalTask = new BukkitRunnable() {
+                @Override
+                public void run() {
+                    drainPendingChanges();
+                }
+            };
+            journalTask.runTaskTimer(plugin, 1L, 1L);
+
             // Teleport and prepare players
             Location lobby = getLobbySpawn();
             for (Player p : Bukkit.getOnlinePlayers()) {
@@ -217,17 +271,27 @@ public final class UHCPlugin extends JavaPlugin {
                 teleportTask.cancel();
                 teleportTask = null;
             }
+            if (journalTask != null) {
+                journalTask.cancel();
+                journalTask = null;
+            }
+            // journal whatever was queued during the current tick before restoring
+            drainPendingChanges();
 
             state = State.ENDED;
 
             if (rollback) {
                 rollbackWorld();
+                verifier.verify();
+            } else {
+                verifier.reset();
             }
 
             // reset sets
             alivePlayers.clear();
             spectators.clear();
             originalBlocks.clear();
+            pendingBlocks.clear();
 
             // go back to lobby state
             state = State.LOBBY;
@@ -281,10 +345,32 @@ public final class UHCPlugin extends JavaPlugin {
         // Record original block state (BlockState) — use BlockState for correct snapshot
         public void recordBlockChange(BlockState state) {
             if (state == null || state.getWorld() == null) return;
-            BlockPos key = BlockPos.from(state.getLocation());
+            BlockPos key = blockPos(state.getLocation());
+            // a state buffered earlier this tick is older and wins
+            if (originalBlocks.containsKey(key) || pendingBlocks.contains(key)) return;
             originalBlocks.putIfAbsent(key, BlockSnapshot.from(state));
         }
 
+        // High-frequency variant: buffers the block data the first time a position is seen,
+        // journaled by drainPendingChanges() once per tick. Containers still take the full
+        // BlockState path so their inventory is kept. Must be called before the block changes,
+        // from the main thread.
+        public void queueBlockChange(Block b) {
+            if (b == null) return;
+            BlockPos key = blockPos(b);
+            if (originalBlocks.containsKey(key) || pendingBlocks.contains(key)) return;
+            // first sighting only, so the extra state lookup is paid once per position and round
+            if (b.getState(false) instanceof InventoryHolder) {
+                recordBlockChange(b.getState());
+                return;
+            }
+            pendingBlocks.offer(key, b.getBlockData());
+        }
+
+        private void drainPendingChanges() {
+            pendingBlocks.drainInto(originalBlocks, BlockSnapshot::from);
+        }
+
         private void rollbackWorld() {
             plugin.getLogger().info("Rollback: Wiederherstellung von " + originalBlocks.size() + " Blöcken...");
             // Restore all blocks to their original state
@@ -425,36 +511,12 @@ public final class UHCPlugin extends JavaPlugin {
             plugin.saveConfig();
         }
 
-        // helper key for block positions (world + blockX/blockY/blockZ)
-        private static final class BlockPos {
-            public final String world;
-            public final int x;
-            public final int y;
-            public final int z;
-
-            private BlockPos(String world, int x, int y, int z) {
-                this.world = world;
-                this.x = x;
-                this.y = y;
-                this.z = z;
-            }
-
-            public static BlockPos from(Location loc) {
-                return new BlockPos(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
-            }
-
-            @Override
-            public boolean equals(Object o) {
-                if (this == o) return true;
-                if (o == null || getClass() != o.getClass()) return false;
-                BlockPos blockPos = (BlockPos) o;
-                return x == blockPos.x && y == blockPos.y && z == blockPos.z && Objects.equals(world, blockPos.world);
-            }
+        private static BlockPos blockPos(Location loc) {
+            return new BlockPos(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+        }
 
-            @Override
-            public int hashCode() {
-                return Objects.hash(world, x, y, z);
-            }
+        private static BlockPos blockPos(Block b) {
+            return new BlockPos(b.getWorld().getName(), b.getX(), b.getY(), b.getZ());
         }
 
         // BlockSnapshot helper (now accepts BlockState)
@@ -479,6 +541,316 @@ public final class UHCPlugin extends JavaPlugin {
                 }
                 return new BlockSnapshot(m, bd, contents);
             }
+
+            public static BlockSnapshot from(BlockData data) {
+                return new BlockSnapshot(data.getMaterial(), data, null);
+            }
+        }
+    }
+
+    // -----------------------------
+    // Inner classes: RollbackVerifier
+    // -----------------------------
+    // Hashes every generated chunk of the play area at game start and again after the rollback
+    // and writes a report of chunks/positions that don't match. Chunks are loaded with
+    // getChunkAtAsync (no generation) and snapshotted in its callback on the main thread;
+    // hashing and comparing (ChunkHasher) runs on the common fork-join pool. Only section and
+    // row hashes are kept for the round; after the rollback each snapshot is compared as soon
+    // as it arrives and only used to list the blocks of mismatching rows.
+    public static class RollbackVerifier {
+        private static final int MAX_POSITIONS_PER_CHUNK = 256;
+        private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+        private static final DateTimeFormatter TIMESTAMP =
+                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
+        private final JavaPlugin plugin;
+
+        private String worldName = null;
+        private int minY;
+        private int maxY;
+        private long roundStartMillis;
+        private List<Long> chunkKeys = null;
+        private CompletableFuture<Baseline> baseline = null;
+
+        private volatile Verification running = null;
+        private volatile boolean closed = false;
+
+        public RollbackVerifier(JavaPlugin plugin) {
+            this.plugin = plugin;
+        }
+
+        public boolean isEnabled() {
+            return plugin.getConfig().getBoolean("rollback-verify", false);
+        }
+
+        public void reset() {
+            worldName = null;
+            chunkKeys = null;
+            baseline = null;
+        }
+
+        // main thread: queue the play area (border.world / center / start-size) for hashing
+        public void captureBaseline() {
+            reset();
+            String name = plugin.getConfig().getString("border.world", Bukkit.getWorlds().get(0).getName());
+            World w = Bukkit.getWorld(name);
+            if (w == null) {
+                plugin.getLogger().warning("Rollback-Prüfung: Welt nicht gefunden: " + name);
+                return;
+            }
+            double size = plugin.getConfig().getDouble("border.start-size", 500.0);
+            double centerX = plugin.getConfig().getDouble("border.center.x", 0.0);
+            double centerZ = plugin.getConfig().getDouble("border.center.z", 0.0);
+            int minCx = (int) Math.floor(centerX - size / 2.0) >> 4;
+            int maxCx = (int) Math.floor(centerX + size / 2.0) >> 4;
+            int minCz = (int) Math.floor(centerZ - size / 2.0) >> 4;
+            int maxCz = (int) Math.floor(centerZ + size / 2.0) >> 4;
+
+            List<Long> keys = new ArrayList<>();
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                for (int cz = minCz; cz <= maxCz; cz++) {
+                    keys.add(chunkKey(cx, cz));
+                }
+            }
+
+            worldName = w.getName();
+            minY = w.getMinHeight();
+            maxY = w.getMaxHeight();
+            roundStartMillis = System.currentTimeMillis();
+            chunkKeys = keys;
+
+            int lo = minY, hi = maxY;
+            Map<Long, ChunkHasher.Hashes> hashes = new ConcurrentHashMap<>();
+            Set<Long> skipped = ConcurrentHashMap.newKeySet();
+            List<CompletableFuture<?>> parts = new ArrayList<>(keys.size());
+            for (long key : keys) {
+                parts.add(snapshot(w, key).thenAcceptAsync(snap -> {
+                    if (snap == null) skipped.add(key);
+                    else hashes.put(key, ChunkHasher.hash(blocks(snap), lo, hi));
+                }, ForkJoinPool.commonPool()));
+            }
+            baseline = CompletableFuture.allOf(parts.toArray(new CompletableFuture[0]))
+                    .thenApply(v -> new Baseline(hashes, skipped));
+            plugin.getLogger().info("Rollback-Prüfung: " + keys.size() + " Chunks in " + worldName + " werden erfasst.");
+        }
+
+        // main thread, directly after rollbackWorld(): re-load, hash and diff asynchronously
+        public void verify() {
+            if (baseline == null) return;
+            CompletableFuture<Baseline> before = baseline;
+            List<Long> keys = chunkKeys;
+            String name = worldName;
+            int lo = minY, hi = maxY;
+            long roundStart = roundStartMillis;
+            reset();
+
+            // onDisable -> endGame: pool threads and classloader would not outlive the plugin
+            if (!plugin.isEnabled()) {
+                plugin.getLogger().info("Rollback-Prüfung beim Deaktivieren übersprungen.");
+                return;
+            }
+            World w = Bukkit.getWorld(name);
+            if (w == null) {
+                plugin.getLogger().warning("Rollback-Prüfung: Welt nicht gefunden: " + name);
+                return;
+            }
+
+            long startNanos = System.nanoTime();
+            List<CompletableFuture<?>> loads = new ArrayList<>(keys.size());
+            List<CompletableFuture<ChunkDiff>> parts = new ArrayList<>(keys.size());
+            for (long key : keys) {
+                CompletableFuture<ChunkSnapshot> snap = snapshot(w, key);
+                loads.add(snap);
+                parts.add(snap.thenCombineAsync(before, (s, base) -> diffChunk(key, base, s, lo, hi),
+                        ForkJoinPool.commonPool()));
+            }
+            CompletableFuture<Void> loading = CompletableFuture.allOf(loads.toArray(new CompletableFuture[0]));
+            CompletableFuture<Long> loadNanos = loading.thenApply(v -> System.nanoTime() - startNanos);
+            CompletableFuture<Void> done = CompletableFuture.allOf(parts.toArray(new CompletableFuture[0]))
+                    .thenCombine(before, (v, base) -> base)
+                    .thenAcceptBoth(loadNanos, (base, load) -> writeReport(name, keys.size(), base.skipped.size(),
+                            collect(parts), roundStart, load, System.nanoTime() - startNanos))
+                    .exceptionally(ex -> {
+                        if (!closed) plugin.getLogger().severe("Rollback-Prüfung fehlgeschlagen: " + ex);
+                        return null;
+                    });
+            running = new Verification(loading, done);
+        }
+
+        // onDisable: no new chunk work, give a running hash/diff a bounded time to write its report
+        public void shutdown() {
+            closed = true;
+            Verification v = running;
+            if (v == null || v.done.isDone()) return;
+            if (!v.loading.isDone()) {
+                // the chunk callbacks need the main thread, which is blocked in onDisable
+                v.done.cancel(false);
+                plugin.getLogger().warning("Rollback-Prüfung abgebrochen (Chunks noch nicht geladen).");
+                return;
+            }
+            try {
+                v.done.get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (TimeoutException ex) {
+                v.done.cancel(false);
+                plugin.getLogger().warning("Rollback-Prüfung nach " + SHUTDOWN_TIMEOUT_SECONDS + "s abgebrochen.");
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | CancellationException ignored) {
+            }
+        }
+
+        // gen=false: chunks never generated are not created just for the check and resolve to null.
+        // Paper completes the future on the main thread, where the snapshot has to be taken; chunks
+        // that are not loaded yet are therefore captured a few ticks into the round.
+        private CompletableFuture<ChunkSnapshot> snapshot(World w, long key) {
+            return w.getChunkAtAsync(chunkX(key), chunkZ(key), false).thenApply(chunk -> {
+                if (closed) throw new CancellationException();
+                // no heightmap / biomes needed, only block data
+                return chunk == null ? null : chunk.getChunkSnapshot(false, false, false);
+            });
+        }
+
+        private static ChunkHasher.Blocks blocks(ChunkSnapshot snap) {
+            return new ChunkHasher.Blocks() {
+                @Override
+                public boolean isSectionEmpty(int section) {
+                    return snap.isSectionEmpty(section);
+                }
+
+                // BlockData#hashCode is only stable within one server run, which is all we compare across
+                @Override
+                public Object blockAt(int x, int y, int z) {
+                    return snap.getBlockData(x, y, z);
+                }
+            };
+        }
+
+        private static ChunkDiff diffChunk(long key, Baseline base, ChunkSnapshot snap, int minY, int maxY) {
+            ChunkHasher.Hashes before = base.hashes.get(key);
+            // not generated at round start: excluded from the comparison
+            if (before == null) return null;
+            ChunkDiff diff = new ChunkDiff(chunkX(key), chunkZ(key));
+            if (snap == null) {
+                diff.rows = -1;
+                return diff;
+            }
+            int[] rows = ChunkHasher.mismatchedRows(before, ChunkHasher.hash(blocks(snap), minY, maxY));
+            if (rows.length == 0) return null;
+            diff.rows = rows.length;
+            for (int row : rows) {
+                int y = minY + (row >> 4);
+                int z = row & 15;
+                for (int x = 0; x < 16; x++) {
+                    diff.addEntry(((diff.x << 4) + x) + " " + y + " " + ((diff.z << 4) + z) + ": "
+                            + snap.getBlockData(x, y, z).getAsString());
+                }
+            }
+            return diff;
+        }
+
+        private static List<ChunkDiff> collect(List<CompletableFuture<ChunkDiff>> parts) {
+            return parts.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .sorted(Comparator.comparingInt((ChunkDiff d) -> d.x).thenComparingInt(d -> d.z))
+                    .collect(Collectors.toList());
+        }
+
+        private void writeReport(String world, int chunkCount, int skipped, List<ChunkDiff> diffs,
+                                 long roundStart, long loadNanos, long nanos) {
+            int checked = chunkCount - skipped;
+            long rows = 0;
+            StringBuilder sb = new StringBuilder();
+            sb.append("Rollback-Prüfung ").append(world)
+                    .append(" | Runde gestartet ").append(TIMESTAMP.format(Instant.ofEpochMilli(roundStart)))
+                    .append(" | geprüft ").append(TIMESTAMP.format(Instant.now())).append('\n');
+            if (skipped > 0) {
+                sb.append(skipped).append(" Chunks waren bei Rundenstart nicht generiert und wurden übersprungen.\n");
+            }
+            if (diffs.isEmpty()) {
+                sb.append("Alle ").append(checked).append(" Chunks stimmen überein.\n");
+            } else {
+                sb.append(diffs.size()).append(" von ").append(checked).append(" Chunks weichen ab. ")
+                        .append("Aufgelistet sind alle Blöcke abweichender Reihen (16 Blöcke entlang x) mit ihrem aktuellen Zustand.\n");
+            }
+            for (ChunkDiff d : diffs) {
+                sb.append("\nChunk ").append(d.x).append(" ").append(d.z);
+                if (d.rows < 0) {
+                    sb.append(": nach dem Rollback nicht mehr vorhanden\n");
+                    continue;
+                }
+                rows += d.rows;
+                sb.append(" (").append(d.rows).append(" Reihen)\n");
+                for (String entry : d.entries) {
+                    sb.append("  ").append(entry).append('\n');
+                }
+                if (d.rows * 16 > d.entries.size()) {
+                    sb.append("  ... und ").append(d.rows * 16 - d.entries.size()).append(" weitere Blöcke\n");
+                }
+            }
+
+            File out = new File(plugin.getDataFolder(), "rollback-verify.txt");
+            try {
+                plugin.getDataFolder().mkdirs();
+                Files.write(out.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+            } catch (IOException ex) {
+                plugin.getLogger().warning("Rollback-Prüfung: Bericht konnte nicht geschrieben werden: " + ex.getMessage());
+            }
+
+            long millis = nanos / 1_000_000L;
+            long loadMillis = loadNanos / 1_000_000L;
+            if (diffs.isEmpty()) {
+                plugin.getLogger().info("Rollback-Prüfung: alle " + checked + " Chunks stimmen überein ("
+                        + millis + " ms, davon " + loadMillis + " ms Laden).");
+                return;
+            }
+            plugin.getLogger().warning("Rollback-Prüfung: " + diffs.size() + " von " + checked + " Chunks weichen ab ("
+                    + rows + " Reihen, " + millis + " ms, davon " + loadMillis + " ms Laden). Bericht: " + out.getPath());
+        }
+
+        private static long chunkKey(int cx, int cz) {
+            return ((long) cx << 32) | (cz & 0xffffffffL);
+        }
+
+        private static int chunkX(long key) { return (int) (key >> 32); }
+
+        private static int chunkZ(long key) { return (int) key; }
+
+        private static final class Baseline {
+            public final Map<Long, ChunkHasher.Hashes> hashes;
+            public final Set<Long> skipped; // not generated at round start
+
+            private Baseline(Map<Long, ChunkHasher.Hashes> hashes, Set<Long> skipped) {
+                this.hashes = hashes;
+                this.skipped = skipped;
+            }
+        }
+
+        // one verify() run: its own chunk loads and the hash/diff/report chain
+        private static final class Verification {
+            public final CompletableFuture<?> loading;
+            public final CompletableFuture<?> done;
+
+            private Verification(CompletableFuture<?> loading, CompletableFuture<?> done) {
+                this.loading = loading;
+                this.done = done;
+            }
+        }
+
+        private static final class ChunkDiff {
+            public final int x;
+            public final int z;
+            public long rows = 0; // -1: chunk missing after the rollback
+            public final List<String> entries = new ArrayList<>();
+
+            private ChunkDiff(int x, int z) {
+                this.x = x;
+                this.z = z;
+            }
+
+            void addEntry(String entry) {
+                if (entries.size() < MAX_POSITIONS_PER_CHUNK) entries.add(entry);
+            }
         }
     }
 
@@ -540,6 +912,90 @@ public final class UHCPlugin extends JavaPlugin {
             Block b = e.getBlockClicked().getRelative(e.getBlockFace());
             gm.recordBlockChange(b.getState());
         }
+
+        // High-frequency events below only queue the position; see GameManager.queueBlockChange
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onFluidFlow(BlockFromToEvent e) {
+            if (!gm.isRunning()) return;
+            gm.queueBlockChange(e.getToBlock());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onBlockForm(BlockFormEvent e) {
+            if (!gm.isRunning()) return;
+            // lava + water -> cobblestone/obsidian, snow, ice
+            gm.queueBlockChange(e.getBlock());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onBlockSpread(BlockSpreadEvent e) {
+            if (!gm.isRunning()) return;
+            // fire spread (also grass, mushrooms, ...)
+            gm.queueBlockChange(e.getBlock());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onBlockIgnite(BlockIgniteEvent e) {
+            if (!gm.isRunning()) return;
+            gm.queueBlockChange(e.getBlock());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onBlockBurn(BlockBurnEvent e) {
+            if (!gm.isRunning()) return;
+            gm.queueBlockChange(e.getBlock());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onBlockFade(BlockFadeEvent e) {
+            if (!gm.isRunning()) return;
+            // ice/snow melting next to lava or fire, fire burning out
+            gm.queueBlockChange(e.getBlock());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onLeavesDecay(LeavesDecayEvent e) {
+            if (!gm.isRunning()) return;
+            // leaves around burned logs
+            gm.queueBlockChange(e.getBlock());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onPistonExtend(BlockPistonExtendEvent e) {
+            if (!gm.isRunning()) return;
+            // the base flips its 'extended' state
+            gm.queueBlockChange(e.getBlock());
+            queuePistonHead(e.getBlock());
+            for (Block b : e.getBlocks()) {
+                gm.queueBlockChange(b);
+                gm.queueBlockChange(b.getRelative(e.getDirection()));
+            }
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onPistonRetract(BlockPistonRetractEvent e) {
+            if (!gm.isRunning()) return;
+            gm.queueBlockChange(e.getBlock());
+            queuePistonHead(e.getBlock());
+            for (Block b : e.getBlocks()) {
+                gm.queueBlockChange(b);
+                gm.queueBlockChange(b.getRelative(e.getDirection()));
+            }
+        }
+
+        private void queuePistonHead(Block piston) {
+            if (piston.getBlockData() instanceof Directional) {
+                gm.queueBlockChange(piston.getRelative(((Directional) piston.getBlockData()).getFacing()));
+            }
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onEntityChangeBlock(EntityChangeBlockEvent e) {
+            if (!gm.isRunning()) return;
+            // falling blocks (start and landing), endermen, ravagers, ...
+            gm.queueBlockChange(e.getBlock());
+        }
     }
 
     public static class PvPListener implements Listener {